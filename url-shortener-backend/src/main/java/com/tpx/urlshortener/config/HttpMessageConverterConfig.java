@@ -0,0 +1,42 @@
+package com.tpx.urlshortener.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.tpx.urlshortener.dtos.UrlShortenerResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary formats negotiated via the Accept header alongside JSON.
+ * Both reuse the application's Jackson settings and stream straight to the response body.
+ * They also drop the derivable {@code shortUrl} (base URL + "/" + alias) and write dates as
+ * numeric arrays instead of ISO strings.
+ */
+@Configuration
+public class HttpMessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(compact(builder).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(compact(builder).factory(new SmileFactory()).build());
+    }
+
+    private static Jackson2ObjectMapperBuilder compact(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .mixIn(UrlShortenerResponse.class, CompactUrlShortenerResponse.class);
+    }
+
+    @JsonIgnoreProperties("shortUrl")
+    private abstract static class CompactUrlShortenerResponse {
+    }
+}
@@ -1,7 +1,16 @@
 package com.tpx.urlshortener.controllers;
 
+import com.tpx.urlshortener.dtos.BulkDeleteRequest;
+import com.tpx.urlshortener.dtos.BulkDeleteJobResponse;
+import com.tpx.urlshortener.dtos.HotAliasResponse;
+import com.tpx.urlshortener.dtos.UrlImportResponse;
+import com.tpx.urlshortener.dtos.UrlSearchRequest;
+import com.tpx.urlshortener.dtos.UrlSearchResponse;
 import com.tpx.urlshortener.dtos.UrlShortenerRequest;
 import com.tpx.urlshortener.dtos.UrlShortenerResponse;
+import com.tpx.urlshortener.services.BulkDeleteJobService;
+import com.tpx.urlshortener.services.HotAliasTracker;
+import com.tpx.urlshortener.services.UrlImportService;
 import com.tpx.urlshortener.services.UrlShortenerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -18,6 +28,9 @@ import java.util.List;
 public class UrlShortenerController {
 
     private final UrlShortenerService service;
+    private final HotAliasTracker hotAliasTracker;
+    private final UrlImportService importService;
+    private final BulkDeleteJobService bulkDeleteJobService;
 
     @PostMapping("/api/v1/shorten")
     public ResponseEntity<UrlShortenerResponse> shorten(@RequestBody UrlShortenerRequest request) {
@@ -33,6 +46,20 @@ public class UrlShortenerController {
         return ResponseEntity.ok(service.getAllUrls());
     }
 
+    @GetMapping("/api/v1/urls/search")
+    public ResponseEntity<UrlSearchResponse> searchUrls(@ModelAttribute UrlSearchRequest criteria,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        log.debug("Searching shortened URLs: {}", criteria);
+        return ResponseEntity.ok(service.search(criteria, cursor, size));
+    }
+
+    @GetMapping("/api/v1/urls/hot")
+    public ResponseEntity<List<HotAliasResponse>> getHotAliases(@RequestParam(defaultValue = "10") int limit) {
+        log.debug("Fetching top {} hot aliases", limit);
+        return ResponseEntity.ok(hotAliasTracker.top(limit));
+    }
+
     @DeleteMapping("/api/v1/{alias}")
     public ResponseEntity<Void> deleteUrl(@PathVariable String alias) {
         log.info("Deleting URL with alias: {}", alias);
@@ -41,10 +68,35 @@ public class UrlShortenerController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/api/v1/urls/bulk-delete")
+    public ResponseEntity<BulkDeleteJobResponse> bulkDelete(@RequestBody BulkDeleteRequest request) {
+        log.info("Bulk delete requested");
+        BulkDeleteJobResponse job = bulkDeleteJobService.submit(request);
+        log.info("Bulk delete job started. Job id: {}", job.jobId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/api/v1/urls/bulk-delete/" + job.jobId())
+                .body(job);
+    }
+
+    @GetMapping("/api/v1/urls/bulk-delete/{jobId}")
+    public ResponseEntity<BulkDeleteJobResponse> getBulkDeleteJob(@PathVariable String jobId) {
+        log.debug("Fetching bulk delete job: {}", jobId);
+        return ResponseEntity.ok(bulkDeleteJobService.getJob(jobId));
+    }
+
+    @PostMapping(value = "/api/v1/urls/import", consumes = "text/csv")
+    public ResponseEntity<UrlImportResponse> importUrls(InputStream csv) {
+        log.info("CSV import requested");
+        UrlImportResponse response = importService.importCsv(csv);
+        log.info("CSV import finished. Imported: {}", response.imported());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{alias}")
     public ResponseEntity<Void> redirect(@PathVariable String alias) {
         log.debug("Redirect request received for alias: {}", alias);
         String originalUrl = service.getOriginalUrl(alias);
+        hotAliasTracker.record(alias);
         log.info("Redirecting alias '{}' to '{}'", alias, originalUrl);
         return ResponseEntity.status(HttpStatus.FOUND)
                 .header(HttpHeaders.LOCATION, originalUrl)
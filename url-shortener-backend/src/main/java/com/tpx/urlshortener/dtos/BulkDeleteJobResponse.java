@@ -0,0 +1,34 @@
+package com.tpx.urlshortener.dtos;
+
+import java.time.LocalDateTime;
+
+public record BulkDeleteJobResponse(
+        String jobId,
+        BulkDeleteJobStatus status,
+        long processed,
+        long deletedCount,
+        int chunks,
+        String error,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    public static BulkDeleteJobResponse started(String jobId) {
+        return new BulkDeleteJobResponse(jobId, BulkDeleteJobStatus.RUNNING, 0, 0, 0, null, LocalDateTime.now(), null);
+    }
+
+    public BulkDeleteJobResponse withProgress(BulkDeleteProgress progress) {
+        return new BulkDeleteJobResponse(jobId, status, progress.processed(), progress.deletedCount(),
+                progress.chunks(), null, startedAt, null);
+    }
+
+    public BulkDeleteJobResponse completed(BulkDeleteProgress progress) {
+        return new BulkDeleteJobResponse(jobId, BulkDeleteJobStatus.COMPLETED, progress.processed(),
+                progress.deletedCount(), progress.chunks(), null, startedAt, LocalDateTime.now());
+    }
+
+    public BulkDeleteJobResponse failed(String error) {
+        return new BulkDeleteJobResponse(jobId, BulkDeleteJobStatus.FAILED, processed, deletedCount, chunks,
+                error, startedAt, LocalDateTime.now());
+    }
+}
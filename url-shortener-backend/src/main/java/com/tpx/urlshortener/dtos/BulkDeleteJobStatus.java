@@ -0,0 +1,7 @@
+package com.tpx.urlshortener.dtos;
+
+public enum BulkDeleteJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.tpx.urlshortener.dtos;
+
+public record BulkDeleteProgress(
+        long processed,
+        long deletedCount,
+        int chunks
+) {}
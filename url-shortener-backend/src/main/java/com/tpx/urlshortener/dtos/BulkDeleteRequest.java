@@ -0,0 +1,11 @@
+package com.tpx.urlshortener.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record BulkDeleteRequest(
+        List<String> aliases,
+        String aliasPrefix,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {}
@@ -0,0 +1,7 @@
+package com.tpx.urlshortener.dtos;
+
+public record HotAliasResponse(
+        String alias,
+        long estimatedHits,
+        double estimatedRatePerSecond
+) {}
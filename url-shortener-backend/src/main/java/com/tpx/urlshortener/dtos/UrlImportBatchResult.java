@@ -0,0 +1,9 @@
+package com.tpx.urlshortener.dtos;
+
+import java.util.List;
+
+public record UrlImportBatchResult(
+        long imported,
+        long conflicts,
+        List<UrlImportError> conflictSamples
+) {}
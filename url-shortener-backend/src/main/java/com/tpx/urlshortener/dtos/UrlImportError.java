@@ -0,0 +1,7 @@
+package com.tpx.urlshortener.dtos;
+
+public record UrlImportError(
+        long lineNumber,
+        String alias,
+        String reason
+) {}
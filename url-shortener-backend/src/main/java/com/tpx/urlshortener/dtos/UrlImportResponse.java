@@ -0,0 +1,13 @@
+package com.tpx.urlshortener.dtos;
+
+import java.util.List;
+
+public record UrlImportResponse(
+        long totalRows,
+        long imported,
+        long invalid,
+        long conflicts,
+        List<UrlImportError> errors,
+        long durationMillis,
+        double rowsPerSecond
+) {}
@@ -0,0 +1,7 @@
+package com.tpx.urlshortener.dtos;
+
+public record UrlImportRow(
+        long lineNumber,
+        String alias,
+        String originalUrl
+) {}
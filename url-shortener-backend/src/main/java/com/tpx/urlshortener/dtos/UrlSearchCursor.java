@@ -0,0 +1,8 @@
+package com.tpx.urlshortener.dtos;
+
+import java.time.LocalDateTime;
+
+public record UrlSearchCursor(
+        LocalDateTime createdAt,
+        Long id
+) {}
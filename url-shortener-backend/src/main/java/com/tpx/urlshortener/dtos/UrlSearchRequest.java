@@ -0,0 +1,13 @@
+package com.tpx.urlshortener.dtos;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+public record UrlSearchRequest(
+        String aliasPrefix,
+        String urlContains,
+        String host,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo
+) {}
@@ -0,0 +1,9 @@
+package com.tpx.urlshortener.dtos;
+
+import java.util.List;
+
+public record UrlSearchResponse(
+        List<UrlShortenerResponse> content,
+        int size,
+        String nextCursor
+) {}
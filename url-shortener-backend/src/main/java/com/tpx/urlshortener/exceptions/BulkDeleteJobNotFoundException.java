@@ -0,0 +1,7 @@
+package com.tpx.urlshortener.exceptions;
+
+public class BulkDeleteJobNotFoundException extends RuntimeException {
+    public BulkDeleteJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tpx.urlshortener.exceptions;
+
+public class InvalidDeleteCriteriaException extends RuntimeException {
+    public InvalidDeleteCriteriaException(String message) {
+        super(message);
+    }
+}
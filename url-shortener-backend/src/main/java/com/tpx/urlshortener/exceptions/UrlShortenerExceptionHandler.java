@@ -31,6 +31,24 @@ public class UrlShortenerExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidDeleteCriteriaException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDeleteCriteria(InvalidDeleteCriteriaException ex) {
+        log.warn("Invalid bulk delete criteria: {}", ex.getMessage());
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidSearchCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearchCursor(InvalidSearchCursorException ex) {
+        log.warn("Invalid search cursor: {}", ex.getMessage());
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(BulkDeleteJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleBulkDeleteJobNotFound(BulkDeleteJobNotFoundException ex) {
+        log.warn("Bulk delete job not found: {}", ex.getMessage());
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
     private ResponseEntity<ErrorResponse> buildResponse(HttpStatus status, String message) {
         log.debug("Building error response: status={}, message={}", status, message);
 
@@ -0,0 +1,118 @@
+package com.tpx.urlshortener.repositories;
+
+import com.tpx.urlshortener.dtos.UrlImportBatchResult;
+import com.tpx.urlshortener.dtos.UrlImportError;
+import com.tpx.urlshortener.dtos.UrlImportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * Loads import batches through a temporary staging table and merges them into {@code url_shortener}.
+ * PostgreSQL is fed with {@code COPY}; other databases (H2 in tests) fall back to JDBC batch inserts.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UrlImportRepository {
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE LOCAL TEMPORARY TABLE url_import_staging (
+                line_number BIGINT NOT NULL,
+                alias VARCHAR(50) NOT NULL,
+                original_url VARCHAR(2048) NOT NULL
+            ) ON COMMIT DROP""";
+
+    private static final String COPY_SQL =
+            "COPY url_import_staging (line_number, alias, original_url) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_STAGING_SQL =
+            "INSERT INTO url_import_staging (line_number, alias, original_url) VALUES (?, ?, ?)";
+
+    // Rows whose alias is already taken, or repeated earlier in the same batch
+    private static final String CONFLICTS_SQL = """
+            SELECT s.line_number, s.alias
+              FROM url_import_staging s
+             WHERE EXISTS (SELECT 1 FROM url_shortener u WHERE u.alias = s.alias)
+                OR EXISTS (SELECT 1 FROM url_import_staging d WHERE d.alias = s.alias AND d.line_number < s.line_number)
+             ORDER BY s.line_number
+             LIMIT ?""";
+
+    private static final String MERGE_SQL = """
+            INSERT INTO url_shortener (alias, original_url, created_at)
+            SELECT s.alias, s.original_url, CURRENT_TIMESTAMP
+              FROM url_import_staging s
+             WHERE NOT EXISTS (SELECT 1 FROM url_shortener u WHERE u.alias = s.alias)
+               AND NOT EXISTS (SELECT 1 FROM url_import_staging d WHERE d.alias = s.alias AND d.line_number < s.line_number)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    @Transactional
+    public UrlImportBatchResult importBatch(List<UrlImportRow> rows, int maxConflictSamples) {
+        // H2 commits on DDL unless the temporary table is declared TRANSACTIONAL
+        jdbcTemplate.execute(isPostgres() ? CREATE_STAGING_SQL : CREATE_STAGING_SQL + " TRANSACTIONAL");
+
+        if (isPostgres()) {
+            copyIntoStaging(rows);
+        } else {
+            jdbcTemplate.batchUpdate(INSERT_STAGING_SQL, rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, row.lineNumber());
+                ps.setString(2, row.alias());
+                ps.setString(3, row.originalUrl());
+            });
+        }
+
+        List<UrlImportError> conflictSamples = jdbcTemplate.query(
+                CONFLICTS_SQL,
+                (rs, rowNum) -> new UrlImportError(rs.getLong(1), rs.getString(2), "Alias already exists"),
+                maxConflictSamples);
+
+        // ON CONFLICT still guards against aliases created concurrently after the checks above
+        int imported = jdbcTemplate.update(isPostgres() ? MERGE_SQL + " ON CONFLICT (alias) DO NOTHING" : MERGE_SQL);
+
+        log.debug("Import batch merged. staged={}, imported={}", rows.size(), imported);
+        return new UrlImportBatchResult(imported, rows.size() - imported, conflictSamples);
+    }
+
+    private void copyIntoStaging(List<UrlImportRow> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 96);
+        for (UrlImportRow row : rows) {
+            csv.append(row.lineNumber()).append(',')
+                    .append(quote(row.alias())).append(',')
+                    .append(quote(row.originalUrl())).append('\n');
+        }
+
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(csv.toString()));
+            } catch (IOException ex) {
+                throw new IllegalStateException("COPY into staging table failed", ex);
+            }
+        });
+        log.debug("Copied {} rows into staging table", copied);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
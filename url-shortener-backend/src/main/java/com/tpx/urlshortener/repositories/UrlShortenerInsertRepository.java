@@ -0,0 +1,14 @@
+package com.tpx.urlshortener.repositories;
+
+import com.tpx.urlshortener.entities.UrlShortenerEntity;
+
+import java.util.Optional;
+
+public interface UrlShortenerInsertRepository {
+
+    /**
+     * Inserts a link in a single statement, relying on the unique alias index.
+     * Returns the stored link, or empty if the alias is already taken.
+     */
+    Optional<UrlShortenerEntity> insertIfAbsent(String alias, String originalUrl);
+}
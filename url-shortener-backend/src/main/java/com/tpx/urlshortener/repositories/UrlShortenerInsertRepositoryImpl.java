@@ -0,0 +1,47 @@
+package com.tpx.urlshortener.repositories;
+
+import com.tpx.urlshortener.entities.UrlShortenerEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UrlShortenerInsertRepositoryImpl implements UrlShortenerInsertRepository {
+
+    // Supported by PostgreSQL and by H2 in PostgreSQL mode; a conflict inserts nothing instead of failing
+    private static final String INSERT_SQL =
+            "INSERT INTO url_shortener (alias, original_url, created_at) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<UrlShortenerEntity> insertIfAbsent(String alias, String originalUrl) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            ps.setString(1, alias);
+            ps.setString(2, originalUrl);
+            ps.setTimestamp(3, Timestamp.valueOf(createdAt));
+            return ps;
+        }, keyHolder);
+
+        if (inserted == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(UrlShortenerEntity.builder()
+                .id(keyHolder.getKeyAs(Long.class))
+                .alias(alias)
+                .originalUrl(originalUrl)
+                .createdAt(createdAt)
+                .build());
+    }
+}
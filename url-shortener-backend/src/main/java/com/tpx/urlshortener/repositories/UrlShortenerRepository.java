@@ -2,16 +2,32 @@ package com.tpx.urlshortener.repositories;
 
 import com.tpx.urlshortener.entities.UrlShortenerEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
-public interface UrlShortenerRepository extends JpaRepository<UrlShortenerEntity, Long> {
+public interface UrlShortenerRepository extends JpaRepository<UrlShortenerEntity, Long>,
+        UrlShortenerSearchRepository, UrlShortenerInsertRepository {
 
     Optional<UrlShortenerEntity> findByAlias(String alias);
 
     boolean existsByAlias(String alias);
 
     void deleteByAlias(String alias);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UrlShortenerEntity u where u.alias in :aliases")
+    int deleteAllByAliasIn(@Param("aliases") Collection<String> aliases);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UrlShortenerEntity u where u.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,23 @@
+package com.tpx.urlshortener.repositories;
+
+import com.tpx.urlshortener.dtos.UrlSearchCursor;
+import com.tpx.urlshortener.dtos.UrlSearchRequest;
+import com.tpx.urlshortener.entities.UrlShortenerEntity;
+
+import java.util.List;
+
+public interface UrlShortenerSearchRepository {
+
+    /**
+     * Returns up to {@code limit} links matching every non-blank criterion, newest first,
+     * starting strictly after the {@code after} cursor (or from the newest link when null).
+     * Keyset paging keeps deep pages as cheap as the first one.
+     */
+    List<UrlShortenerEntity> search(UrlSearchRequest criteria, UrlSearchCursor after, int limit);
+
+    /**
+     * Returns up to {@code limit} ids greater than {@code afterId} matching the criteria, in id order.
+     * Used to walk a large match set in bounded chunks.
+     */
+    List<Long> findIdsAfter(UrlSearchRequest criteria, long afterId, int limit);
+}
@@ -0,0 +1,117 @@
+package com.tpx.urlshortener.repositories;
+
+import com.tpx.urlshortener.dtos.UrlSearchCursor;
+import com.tpx.urlshortener.dtos.UrlSearchRequest;
+import com.tpx.urlshortener.entities.UrlShortenerEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class UrlShortenerSearchRepositoryImpl implements UrlShortenerSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UrlShortenerEntity> search(UrlSearchRequest criteria, UrlSearchCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UrlShortenerEntity> query = cb.createQuery(UrlShortenerEntity.class);
+        Root<UrlShortenerEntity> root = query.from(UrlShortenerEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>(List.of(toPredicates(criteria, cb, root)));
+        if (after != null) {
+            // (created_at, id) < (:createdAt, :id), written so created_at bounds the index range scan
+            Expression<LocalDateTime> createdAt = root.get("createdAt");
+            predicates.add(cb.lessThanOrEqualTo(createdAt, after.createdAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.lessThan(root.get("id"), after.id())
+            ));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(UrlSearchRequest criteria, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<UrlShortenerEntity> root = query.from(UrlShortenerEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>(List.of(toPredicates(criteria, cb, root)));
+        predicates.add(cb.greaterThan(root.get("id"), afterId));
+
+        query.select(root.get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Predicate[] toPredicates(UrlSearchRequest criteria, CriteriaBuilder cb, Root<UrlShortenerEntity> root) {
+        List<Predicate> predicates = new ArrayList<>();
+        Expression<String> alias = root.get("alias");
+        // Matches the lower(original_url) trigram index from changeset 002
+        Expression<String> originalUrl = cb.lower(root.get("originalUrl"));
+
+        if (isPresent(criteria.aliasPrefix())) {
+            predicates.add(cb.like(alias, escapeLike(criteria.aliasPrefix().trim()) + "%", LIKE_ESCAPE));
+        }
+
+        if (isPresent(criteria.urlContains())) {
+            String fragment = escapeLike(criteria.urlContains().trim().toLowerCase(Locale.ROOT));
+            predicates.add(cb.like(originalUrl, "%" + fragment + "%", LIKE_ESCAPE));
+        }
+
+        if (isPresent(criteria.host())) {
+            // Stored URLs always start with http:// or https://, so anchor there rather than at any "://"
+            String host = escapeLike(criteria.host().trim().toLowerCase(Locale.ROOT));
+            List<Predicate> hostMatches = new ArrayList<>();
+            for (String scheme : new String[]{"http://", "https://"}) {
+                hostMatches.add(cb.like(originalUrl, scheme + host, LIKE_ESCAPE));
+                hostMatches.add(cb.like(originalUrl, scheme + host + "/%", LIKE_ESCAPE));
+                hostMatches.add(cb.like(originalUrl, scheme + host + ":%", LIKE_ESCAPE));
+                hostMatches.add(cb.like(originalUrl, scheme + host + "?%", LIKE_ESCAPE));
+            }
+            predicates.add(cb.or(hostMatches.toArray(Predicate[]::new)));
+        }
+
+        if (criteria.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), criteria.createdFrom()));
+        }
+
+        if (criteria.createdTo() != null) {
+            predicates.add(cb.lessThan(root.get("createdAt"), criteria.createdTo()));
+        }
+
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
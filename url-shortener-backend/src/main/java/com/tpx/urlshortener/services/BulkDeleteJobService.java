@@ -0,0 +1,70 @@
+package com.tpx.urlshortener.services;
+
+import com.tpx.urlshortener.dtos.BulkDeleteJobResponse;
+import com.tpx.urlshortener.dtos.BulkDeleteProgress;
+import com.tpx.urlshortener.dtos.BulkDeleteRequest;
+import com.tpx.urlshortener.exceptions.BulkDeleteJobNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs bulk deletes in the background so callers can poll per-chunk progress instead of
+ * holding one request open for the whole delete. Job state lives in memory on this instance
+ * and finished jobs are forgotten after an hour.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkDeleteJobService {
+
+    private static final long RETENTION_HOURS = 1;
+
+    private final UrlShortenerService urlShortenerService;
+    private final TaskExecutor taskExecutor;
+
+    private final Map<String, BulkDeleteJobResponse> jobs = new ConcurrentHashMap<>();
+
+    public BulkDeleteJobResponse submit(BulkDeleteRequest request) {
+        urlShortenerService.validateBulkDelete(request);
+        evictFinishedJobs();
+
+        BulkDeleteJobResponse job = BulkDeleteJobResponse.started(UUID.randomUUID().toString());
+        jobs.put(job.jobId(), job);
+        log.info("Bulk delete job queued. jobId={}", job.jobId());
+
+        taskExecutor.execute(() -> run(job.jobId(), request));
+        return job;
+    }
+
+    public BulkDeleteJobResponse getJob(String jobId) {
+        BulkDeleteJobResponse job = jobs.get(jobId);
+        if (job == null) {
+            throw new BulkDeleteJobNotFoundException("Bulk delete job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(String jobId, BulkDeleteRequest request) {
+        try {
+            BulkDeleteProgress total = urlShortenerService.bulkDelete(request,
+                    progress -> jobs.computeIfPresent(jobId, (id, job) -> job.withProgress(progress)));
+            jobs.computeIfPresent(jobId, (id, job) -> job.completed(total));
+            log.info("Bulk delete job completed. jobId={}, deleted={}", jobId, total.deletedCount());
+        } catch (RuntimeException ex) {
+            log.error("Bulk delete job failed. jobId={}", jobId, ex);
+            jobs.computeIfPresent(jobId, (id, job) -> job.failed(ex.getMessage()));
+        }
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(cutoff));
+    }
+}
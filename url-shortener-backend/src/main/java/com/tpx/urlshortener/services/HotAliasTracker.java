@@ -0,0 +1,132 @@
+package com.tpx.urlshortener.services;
+
+import com.tpx.urlshortener.dtos.HotAliasResponse;
+import com.tpx.urlshortener.utils.CountMinSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the most requested aliases in fixed memory.
+ * Hits go into a Count-Min Sketch per time window; a bounded candidate set keeps the top aliases.
+ * The previous window is blended in with a linearly decaying weight so rates slide instead of dropping to zero.
+ */
+@Slf4j
+@Service
+public class HotAliasTracker {
+
+    private final long windowNanos;
+    private final int topK;
+    private final int sketchWidth;
+    private final int sketchDepth;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<Windows> windows;
+
+    @Autowired
+    public HotAliasTracker(@Value("${app.hot-aliases.window:60s}") Duration window,
+                           @Value("${app.hot-aliases.top-k:20}") int topK,
+                           @Value("${app.hot-aliases.sketch-width:2048}") int sketchWidth,
+                           @Value("${app.hot-aliases.sketch-depth:4}") int sketchDepth) {
+        this(window, topK, sketchWidth, sketchDepth, System::nanoTime);
+    }
+
+    HotAliasTracker(Duration window, int topK, int sketchWidth, int sketchDepth, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.topK = topK;
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.nanoClock = nanoClock;
+        this.windows = new AtomicReference<>(new Windows(new Window(), new Window(), nanoClock.getAsLong()));
+    }
+
+    public void record(String alias) {
+        currentWindows().current().record(alias);
+    }
+
+    public List<HotAliasResponse> top(int limit) {
+        Windows snapshot = currentWindows();
+        double elapsed = (nanoClock.getAsLong() - snapshot.startNanos()) / (double) windowNanos;
+        double previousWeight = Math.max(0.0, 1.0 - elapsed);
+        double windowSeconds = windowNanos / 1_000_000_000.0;
+
+        Set<String> aliases = new HashSet<>(snapshot.current().candidates.keySet());
+        aliases.addAll(snapshot.previous().candidates.keySet());
+
+        List<HotAliasResponse> hot = aliases.stream()
+                .map(alias -> {
+                    long hits = snapshot.current().sketch.estimate(alias)
+                            + Math.round(snapshot.previous().sketch.estimate(alias) * previousWeight);
+                    return new HotAliasResponse(alias, hits, hits / windowSeconds);
+                })
+                .filter(response -> response.estimatedHits() > 0)
+                .sorted(Comparator.comparingLong(HotAliasResponse::estimatedHits).reversed())
+                .limit(Math.clamp(limit, 0, topK))
+                .toList();
+
+        log.debug("Computed {} hot aliases from {} candidates", hot.size(), aliases.size());
+        return hot;
+    }
+
+    private Windows currentWindows() {
+        Windows snapshot = windows.get();
+        long now = nanoClock.getAsLong();
+
+        while (now - snapshot.startNanos() >= windowNanos) {
+            long elapsedWindows = (now - snapshot.startNanos()) / windowNanos;
+            Window previous = elapsedWindows == 1 ? snapshot.current() : new Window();
+            Windows rotated = new Windows(new Window(), previous, snapshot.startNanos() + elapsedWindows * windowNanos);
+
+            if (windows.compareAndSet(snapshot, rotated)) {
+                return rotated;
+            }
+            snapshot = windows.get();
+        }
+        return snapshot;
+    }
+
+    private record Windows(Window current, Window previous, long startNanos) {}
+
+    private final class Window {
+
+        private final CountMinSketch sketch = new CountMinSketch(sketchWidth, sketchDepth);
+        // Membership only; counts are always read back from the sketch
+        private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+        private volatile long threshold;
+
+        void record(String alias) {
+            long estimate = sketch.add(alias);
+            if (estimate <= threshold || candidates.containsKey(alias)) {
+                return;
+            }
+
+            candidates.put(alias, Boolean.TRUE);
+            if (candidates.size() > topK) {
+                evictColdest();
+            }
+        }
+
+        private void evictColdest() {
+            while (candidates.size() > topK) {
+                candidates.keySet().stream()
+                        .min(Comparator.comparingLong(sketch::estimate))
+                        .ifPresent(candidates::remove);
+            }
+
+            threshold = candidates.keySet().stream()
+                    .mapToLong(sketch::estimate)
+                    .min()
+                    .orElse(0L);
+        }
+    }
+}
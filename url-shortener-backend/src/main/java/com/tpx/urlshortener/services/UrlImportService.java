@@ -0,0 +1,182 @@
+package com.tpx.urlshortener.services;
+
+import com.tpx.urlshortener.dtos.UrlImportBatchResult;
+import com.tpx.urlshortener.dtos.UrlImportError;
+import com.tpx.urlshortener.dtos.UrlImportResponse;
+import com.tpx.urlshortener.dtos.UrlImportRow;
+import com.tpx.urlshortener.exceptions.InvalidUrlException;
+import com.tpx.urlshortener.repositories.UrlImportRepository;
+import com.tpx.urlshortener.utils.CsvRecordReader;
+import com.tpx.urlshortener.utils.CsvRecordReader.CsvRecord;
+import com.tpx.urlshortener.utils.UrlUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Streams an RFC 4180 CSV of {@code alias,original_url} records into the database in batches.
+ * Each batch is validated in parallel and then loaded in its own transaction, so a failure
+ * part-way through keeps the batches already committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UrlImportService {
+
+    private static final Pattern ALIAS_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,50}");
+    private static final List<String> HEADER = List.of("alias", "original_url");
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final UrlImportRepository importRepository;
+
+    @Value("${app.import.batch-size:10000}")
+    private int batchSize;
+
+    @PostConstruct
+    void validateConfiguration() {
+        if (batchSize < 1) {
+            throw new IllegalStateException("app.import.batch-size must be at least 1 but was " + batchSize);
+        }
+    }
+
+    public UrlImportResponse importCsv(InputStream csv) {
+        log.info("CSV import started. batchSize={}", batchSize);
+        long startNanos = System.nanoTime();
+
+        long totalRows = 0;
+        long imported = 0;
+        long invalid = 0;
+        long conflicts = 0;
+        List<UrlImportError> errors = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            CsvRecordReader records = new CsvRecordReader(reader);
+            List<CsvRecord> batch = new ArrayList<>(batchSize);
+            boolean first = true;
+            CsvRecord record;
+
+            while ((record = records.next()) != null) {
+                boolean header = first && isHeader(record);
+                first = false;
+                if (header || record.isBlank()) {
+                    continue;
+                }
+                batch.add(record);
+
+                if (batch.size() == batchSize) {
+                    BatchOutcome outcome = processBatch(batch, errors);
+                    totalRows += batch.size();
+                    imported += outcome.imported();
+                    invalid += outcome.invalid();
+                    conflicts += outcome.conflicts();
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                BatchOutcome outcome = processBatch(batch, errors);
+                totalRows += batch.size();
+                imported += outcome.imported();
+                invalid += outcome.invalid();
+                conflicts += outcome.conflicts();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read CSV import", ex);
+        }
+
+        long durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        double rowsPerSecond = durationMillis == 0 ? totalRows : totalRows * 1000.0 / durationMillis;
+
+        log.info("CSV import completed. rows={}, imported={}, invalid={}, conflicts={}, durationMs={}, rowsPerSecond={}",
+                totalRows, imported, invalid, conflicts, durationMillis, Math.round(rowsPerSecond));
+        return new UrlImportResponse(totalRows, imported, invalid, conflicts, errors, durationMillis, rowsPerSecond);
+    }
+
+    private BatchOutcome processBatch(List<CsvRecord> batch, List<UrlImportError> errors) {
+        List<ParsedLine> parsed = batch.parallelStream()
+                .map(this::parse)
+                .toList();
+
+        List<UrlImportRow> rows = new ArrayList<>(parsed.size());
+        long invalid = 0;
+        for (ParsedLine line : parsed) {
+            if (line.error() != null) {
+                invalid++;
+                addError(errors, line.error());
+            } else {
+                rows.add(line.row());
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return new BatchOutcome(0, invalid, 0);
+        }
+
+        UrlImportBatchResult result = importRepository.importBatch(rows, MAX_REPORTED_ERRORS - errors.size());
+        result.conflictSamples().forEach(conflict -> addError(errors, conflict));
+
+        log.info("Import batch loaded. lastLine={}, imported={}, invalid={}, conflicts={}",
+                batch.getLast().lineNumber(), result.imported(), invalid, result.conflicts());
+        return new BatchOutcome(result.imported(), invalid, result.conflicts());
+    }
+
+    private ParsedLine parse(CsvRecord record) {
+        List<String> fields = record.fields();
+        if (record.malformed()) {
+            return ParsedLine.ofError(new UrlImportError(record.lineNumber(), null, "Malformed CSV quoting"));
+        }
+        if (fields.size() < 2) {
+            return ParsedLine.ofError(new UrlImportError(record.lineNumber(), null, "Expected alias,original_url"));
+        }
+
+        String alias = fields.get(0).trim();
+        if (!ALIAS_PATTERN.matcher(alias).matches()) {
+            return ParsedLine.ofError(new UrlImportError(record.lineNumber(), alias, "Invalid alias"));
+        }
+
+        // Aliases cannot contain commas, so extra fields are an unquoted URL containing commas
+        String rawUrl = fields.size() == 2 ? fields.get(1) : String.join(",", fields.subList(1, fields.size()));
+        try {
+            String url = UrlUtils.normalizeAndValidate(rawUrl);
+            return ParsedLine.ofRow(new UrlImportRow(record.lineNumber(), alias, url));
+        } catch (InvalidUrlException ex) {
+            return ParsedLine.ofError(new UrlImportError(record.lineNumber(), alias, ex.getMessage()));
+        }
+    }
+
+    private static boolean isHeader(CsvRecord record) {
+        return record.fields().size() == HEADER.size()
+                && record.fields().get(0).trim().equalsIgnoreCase(HEADER.get(0))
+                && record.fields().get(1).trim().equalsIgnoreCase(HEADER.get(1));
+    }
+
+    private static void addError(List<UrlImportError> errors, UrlImportError error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    private record ParsedLine(UrlImportRow row, UrlImportError error) {
+        static ParsedLine ofRow(UrlImportRow row) {
+            return new ParsedLine(row, null);
+        }
+
+        static ParsedLine ofError(UrlImportError error) {
+            return new ParsedLine(null, error);
+        }
+    }
+
+    private record BatchOutcome(long imported, long invalid, long conflicts) {}
+}
@@ -1,20 +1,35 @@
 package com.tpx.urlshortener.services;
 
+import com.tpx.urlshortener.dtos.BulkDeleteRequest;
+import com.tpx.urlshortener.dtos.BulkDeleteProgress;
+import com.tpx.urlshortener.dtos.UrlSearchCursor;
+import com.tpx.urlshortener.dtos.UrlSearchRequest;
+import com.tpx.urlshortener.dtos.UrlSearchResponse;
 import com.tpx.urlshortener.dtos.UrlShortenerRequest;
 import com.tpx.urlshortener.dtos.UrlShortenerResponse;
 import com.tpx.urlshortener.entities.UrlShortenerEntity;
 import com.tpx.urlshortener.exceptions.AliasAlreadyExistsException;
+import com.tpx.urlshortener.exceptions.InvalidDeleteCriteriaException;
+import com.tpx.urlshortener.exceptions.InvalidSearchCursorException;
 import com.tpx.urlshortener.exceptions.UrlNotFoundException;
 import com.tpx.urlshortener.repositories.UrlShortenerRepository;
 import com.tpx.urlshortener.utils.UrlUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -24,12 +39,23 @@ public class UrlShortenerService {
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private static final int ALIAS_LENGTH = 6;
     private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final UrlShortenerRepository repository;
 
     @Value("${app.base-url}")
     private String baseUrl;
 
+    @Value("${app.bulk-delete.chunk-size:1000}")
+    private int deleteChunkSize;
+
+    @PostConstruct
+    void validateConfiguration() {
+        if (deleteChunkSize < 1) {
+            throw new IllegalStateException("app.bulk-delete.chunk-size must be at least 1 but was " + deleteChunkSize);
+        }
+    }
+
     @Transactional
     public UrlShortenerResponse shorten(UrlShortenerRequest request) {
         log.info("Shorten request received");
@@ -38,22 +64,19 @@ public class UrlShortenerService {
         log.debug("URL normalized successfully");
 
         String alias = request.customAlias();
+        UrlShortenerEntity saved;
         if (alias == null || alias.isBlank()) {
-            alias = generateUniqueAlias();
-            log.debug("Generated random alias: {}", alias);
-        } else if (repository.existsByAlias(alias)) {
-            log.warn("Alias already exists: {}", alias);
-            throw new AliasAlreadyExistsException("Alias already exists: " + alias);
+            saved = insertWithGeneratedAlias(normalizedUrl);
+            log.debug("Generated random alias: {}", saved.getAlias());
         } else {
             log.debug("Using custom alias: {}", alias);
+            saved = repository.insertIfAbsent(alias, normalizedUrl)
+                    .orElseThrow(() -> {
+                        log.warn("Alias already exists: {}", alias);
+                        return new AliasAlreadyExistsException("Alias already exists: " + alias);
+                    });
         }
 
-        UrlShortenerEntity entity = UrlShortenerEntity.builder()
-                .alias(alias)
-                .originalUrl(normalizedUrl)
-                .build();
-
-        UrlShortenerEntity saved = repository.save(entity);
         log.info("URL shortened successfully. alias={}, id={}", saved.getAlias(), saved.getId());
 
         return mapToResponse(saved);
@@ -69,6 +92,26 @@ public class UrlShortenerService {
         return urls;
     }
 
+    @Transactional(readOnly = true)
+    public UrlSearchResponse search(UrlSearchRequest criteria, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        UrlSearchCursor after = decodeCursor(cursor);
+        log.debug("Searching shortened URLs. criteria={}, after={}, size={}", criteria, after, pageSize);
+
+        // Fetch one extra row to know whether another page exists without counting
+        List<UrlShortenerEntity> results = repository.search(criteria, after, pageSize + 1);
+        boolean hasNext = results.size() > pageSize;
+        List<UrlShortenerEntity> page = hasNext ? results.subList(0, pageSize) : results;
+
+        List<UrlShortenerResponse> urls = page.stream()
+                .map(this::mapToResponse)
+                .toList();
+        String nextCursor = hasNext ? encodeCursor(page.getLast()) : null;
+
+        log.info("Search returned {} shortened URLs. hasNext={}", urls.size(), hasNext);
+        return new UrlSearchResponse(urls, pageSize, nextCursor);
+    }
+
     public String getOriginalUrl(String alias) {
         log.debug("Resolving original URL for alias={}", alias);
 
@@ -93,17 +136,95 @@ public class UrlShortenerService {
         log.info("URL deleted successfully for alias={}", alias);
     }
 
-    private String generateUniqueAlias() {
-        String alias;
+    /**
+     * Rejects bulk delete requests that don't name exactly one of an alias list or a filter.
+     * Called before a delete job is queued so callers get a 400 instead of a failed job.
+     */
+    public void validateBulkDelete(BulkDeleteRequest request) {
+        boolean hasAliases = hasAliases(request);
+        boolean hasFilter = (request.aliasPrefix() != null && !request.aliasPrefix().isBlank())
+                || request.createdFrom() != null
+                || request.createdTo() != null;
+
+        if (hasAliases == hasFilter) {
+            throw new InvalidDeleteCriteriaException(
+                    "Provide either aliases or an alias prefix / created-at range");
+        }
+
+        if (hasAliases && request.aliases().stream().anyMatch(alias -> alias == null || alias.isBlank())) {
+            throw new InvalidDeleteCriteriaException("Aliases must not be null or blank");
+        }
+    }
+
+    /**
+     * Deletes every link matching either an alias list or an alias prefix / created-at range,
+     * passing the running totals to {@code onChunk} after each chunk.
+     * Not transactional on purpose: each chunk is its own short set-based delete, so locks
+     * and WAL stay bounded however many links match.
+     */
+    public BulkDeleteProgress bulkDelete(BulkDeleteRequest request, Consumer<BulkDeleteProgress> onChunk) {
+        validateBulkDelete(request);
+
+        log.info("Bulk delete started. chunkSize={}", deleteChunkSize);
+        BulkDeleteProgress progress = hasAliases(request)
+                ? deleteAliasesInChunks(request.aliases(), onChunk)
+                : deleteMatchesInChunks(new UrlSearchRequest(
+                        request.aliasPrefix(), null, null, request.createdFrom(), request.createdTo()), onChunk);
+
+        log.info("Bulk delete completed. deleted={}, chunks={}", progress.deletedCount(), progress.chunks());
+        return progress;
+    }
+
+    private BulkDeleteProgress deleteAliasesInChunks(List<String> aliases, Consumer<BulkDeleteProgress> onChunk) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(aliases));
+        BulkDeleteProgress progress = new BulkDeleteProgress(0, 0, 0);
+
+        for (int from = 0; from < distinct.size(); from += deleteChunkSize) {
+            List<String> chunk = distinct.subList(from, Math.min(from + deleteChunkSize, distinct.size()));
+            int deleted = repository.deleteAllByAliasIn(chunk);
+            progress = new BulkDeleteProgress(
+                    progress.processed() + chunk.size(), progress.deletedCount() + deleted, progress.chunks() + 1);
+            log.debug("Bulk delete progress: {}/{} aliases processed", progress.processed(), distinct.size());
+            onChunk.accept(progress);
+        }
+
+        return progress;
+    }
+
+    private BulkDeleteProgress deleteMatchesInChunks(UrlSearchRequest criteria, Consumer<BulkDeleteProgress> onChunk) {
+        BulkDeleteProgress progress = new BulkDeleteProgress(0, 0, 0);
+        long lastId = 0;
+
+        List<Long> ids;
+        while (!(ids = repository.findIdsAfter(criteria, lastId, deleteChunkSize)).isEmpty()) {
+            int deleted = repository.deleteAllByIdIn(ids);
+            progress = new BulkDeleteProgress(
+                    progress.processed() + ids.size(), progress.deletedCount() + deleted, progress.chunks() + 1);
+            lastId = ids.getLast();
+            log.debug("Bulk delete progress: {} matches processed, lastId={}", progress.processed(), lastId);
+            onChunk.accept(progress);
+        }
+
+        return progress;
+    }
+
+    private static boolean hasAliases(BulkDeleteRequest request) {
+        return request.aliases() != null && !request.aliases().isEmpty();
+    }
+
+    private UrlShortenerEntity insertWithGeneratedAlias(String normalizedUrl) {
         int attempts = 0;
 
-        do {
-            alias = generateRandomAlias();
+        while (true) {
+            String alias = generateRandomAlias();
             attempts++;
-        } while (repository.existsByAlias(alias));
 
-        log.debug("Generated unique alias={} after {} attempt(s)", alias, attempts);
-        return alias;
+            Optional<UrlShortenerEntity> saved = repository.insertIfAbsent(alias, normalizedUrl);
+            if (saved.isPresent()) {
+                log.debug("Generated unique alias={} after {} attempt(s)", alias, attempts);
+                return saved.get();
+            }
+        }
     }
 
     private String generateRandomAlias() {
@@ -114,6 +235,27 @@ public class UrlShortenerService {
         return sb.toString();
     }
 
+    private static String encodeCursor(UrlShortenerEntity last) {
+        String raw = last.getCreatedAt() + "," + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UrlSearchCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new UrlSearchCursor(
+                    LocalDateTime.parse(raw.substring(0, comma)),
+                    Long.parseLong(raw.substring(comma + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new InvalidSearchCursorException("Invalid search cursor: " + cursor);
+        }
+    }
+
     private UrlShortenerResponse mapToResponse(UrlShortenerEntity entity) {
         log.debug("Mapping entity to response. alias={}", entity.getAlias());
 
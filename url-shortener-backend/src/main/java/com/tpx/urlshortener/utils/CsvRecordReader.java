@@ -0,0 +1,119 @@
+package com.tpx.urlshortener.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: comma-separated fields, optional double-quoted fields with
+ * {@code ""} as an escaped quote, quoted line breaks, LF or CRLF record endings and a leading UTF-8 BOM.
+ * Malformed records (text after a closing quote, unterminated quotes) are flagged rather than thrown,
+ * so callers can report them per record and keep reading.
+ */
+public final class CsvRecordReader {
+
+    private static final char BOM = '\uFEFF';
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private long line = 1;
+    private boolean started;
+    private int pending = NONE;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of input.
+     */
+    public CsvRecord next() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        long startLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        boolean afterClosingQuote = false;
+        boolean malformed = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    fields.add(field.toString());
+                    return new CsvRecord(startLine, fields, true);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        afterClosingQuote = true;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                afterClosingQuote = false;
+                c = read();
+                continue;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return new CsvRecord(startLine, fields, malformed);
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else {
+                malformed |= afterClosingQuote;
+                field.append((char) c);
+            }
+
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            int c = pending;
+            pending = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    public record CsvRecord(long lineNumber, List<String> fields, boolean malformed) {
+
+        public boolean isBlank() {
+            return fields.size() == 1 && fields.get(0).isBlank();
+        }
+    }
+}
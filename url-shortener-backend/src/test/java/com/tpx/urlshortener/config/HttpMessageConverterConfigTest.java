@@ -0,0 +1,102 @@
+package com.tpx.urlshortener.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tpx.urlshortener.dtos.UrlShortenerResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+class HttpMessageConverterConfigTest {
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private final HttpMessageConverterConfig config = new HttpMessageConverterConfig();
+
+    @Test
+    @DisplayName("Binary formats should omit shortUrl and encode URL lists smaller than JSON")
+    void shouldEncodeBinaryFormatsSmallerThanJson() throws Exception {
+        List<UrlShortenerResponse> urls = sampleUrls(100);
+
+        ObjectMapper cbor = config.cborHttpMessageConverter(jsonBuilder()).getObjectMapper();
+        ObjectMapper smile = config.smileHttpMessageConverter(jsonBuilder()).getObjectMapper();
+        int jsonBytes = jsonBuilder().build().writeValueAsBytes(urls).length;
+
+        JsonNode decoded = cbor.readTree(cbor.writeValueAsBytes(urls));
+        assertTrue(decoded.findValues("shortUrl").isEmpty(), "shortUrl is derivable and omitted");
+        assertTrue(decoded.get(0).get("createdAt").isArray(), "dates are numeric, not ISO strings");
+        assertTrue(cbor.writeValueAsBytes(urls).length < jsonBytes, "CBOR should be smaller than JSON");
+        assertTrue(smile.writeValueAsBytes(urls).length < jsonBytes, "Smile should be smaller than JSON");
+    }
+
+    /**
+     * Encode size and time for 10k URLs per format. Timings depend on the machine, so the
+     * numbers are only logged; run with {@code mvn test -Pbenchmark}.
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Benchmark encode size and time of binary formats against JSON")
+    void benchmarkBinaryFormatsAgainstJson() throws Exception {
+        List<UrlShortenerResponse> urls = sampleUrls(10_000);
+
+        Result jsonResult = measure("JSON", jsonBuilder().build(), urls);
+        Result cborResult = measure("CBOR", config.cborHttpMessageConverter(jsonBuilder()).getObjectMapper(), urls);
+        Result smileResult = measure("Smile", config.smileHttpMessageConverter(jsonBuilder()).getObjectMapper(), urls);
+
+        for (Result result : List.of(jsonResult, cborResult, smileResult)) {
+            log.info("{}: {} bytes ({}% of JSON), {} ms/encode", result.format(), result.bytes(),
+                    Math.round(100.0 * result.bytes() / jsonResult.bytes()), String.format("%.2f", result.millisPerEncode()));
+        }
+
+        assertTrue(cborResult.bytes() < jsonResult.bytes(), "CBOR should be smaller than JSON");
+        assertTrue(smileResult.bytes() < jsonResult.bytes(), "Smile should be smaller than JSON");
+    }
+
+    private static Jackson2ObjectMapperBuilder jsonBuilder() {
+        // Mirrors Spring Boot's default of ISO date strings for JSON
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static Result measure(String format, ObjectMapper mapper, List<UrlShortenerResponse> urls) throws Exception {
+        int bytes = mapper.writeValueAsBytes(urls).length;
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.writeValue(OutputStream.nullOutputStream(), urls);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            mapper.writeValue(OutputStream.nullOutputStream(), urls);
+        }
+        double millisPerEncode = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ROUNDS;
+
+        return new Result(format, bytes, millisPerEncode);
+    }
+
+    private static List<UrlShortenerResponse> sampleUrls(int count) {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 19, 3, 1, 31, 694346000);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new UrlShortenerResponse(
+                        (long) i,
+                        "alias" + i,
+                        "http://localhost:8080/alias" + i,
+                        "https://example.com/campaign/landing-page-" + i + "?utm_source=newsletter",
+                        base.plusSeconds(i)))
+                .toList();
+    }
+
+    private record Result(String format, int bytes, double millisPerEncode) {}
+}
@@ -1,7 +1,16 @@
 package com.tpx.urlshortener.e2e;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.tpx.urlshortener.dtos.BulkDeleteRequest;
 import com.tpx.urlshortener.dtos.UrlShortenerRequest;
+import com.tpx.urlshortener.entities.UrlShortenerEntity;
+import com.tpx.urlshortener.repositories.UrlShortenerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -9,11 +18,26 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -21,6 +45,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@Slf4j
 class UrlShortenerControllerE2ETest {
 
     @Autowired
@@ -29,6 +54,18 @@ class UrlShortenerControllerE2ETest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UrlShortenerRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void resetDatabase() {
+        // Tests share one in-memory database; start each from an empty table so failures don't cascade
+        repository.deleteAll();
+    }
+
     @Test
     void fullFlow_create_list_redirect_delete() throws Exception {
         // Create short URL
@@ -71,5 +108,267 @@ class UrlShortenerControllerE2ETest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
     }
+
+    @Test
+    void search_filtersByAliasPrefixAndHost() throws Exception {
+        createUrl("https://docs.example.com/guide", "search-docs");
+        createUrl("https://example.org/home", "search-home");
+        createUrl("https://example.com.evil.net", "other_1");
+        createUrl("https://evil.net/?next=https://docs.example.com", "redirect-1");
+
+        mockMvc.perform(get("/api/v1/urls/search").param("aliasPrefix", "search-"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+
+        String firstPage = mockMvc.perform(get("/api/v1/urls/search").param("aliasPrefix", "search-").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].alias").value("search-home"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/urls/search")
+                        .param("aliasPrefix", "search-")
+                        .param("size", "1")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].alias").value("search-docs"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+
+        mockMvc.perform(get("/api/v1/urls/search").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/urls/search").param("host", "docs.example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].alias").value("search-docs"));
+
+        mockMvc.perform(get("/api/v1/urls/search").param("urlContains", "EXAMPLE.COM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)));
+
+        mockMvc.perform(get("/api/v1/urls/search").param("aliasPrefix", "other_").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void bulkDelete_removesPrefixMatchesInChunks() throws Exception {
+        createUrl("https://example.com/1", "bulk-1");
+        createUrl("https://example.com/2", "bulk-2");
+        createUrl("https://example.com/3", "bulk-3");
+        createUrl("https://example.com/4", "keep-1");
+
+        JsonNode prefixJob = awaitBulkDelete(new BulkDeleteRequest(null, "bulk-", null, null));
+        assertEquals("COMPLETED", prefixJob.get("status").asText());
+        assertEquals(3, prefixJob.get("processed").asLong());
+        assertEquals(3, prefixJob.get("deletedCount").asLong());
+        assertEquals(2, prefixJob.get("chunks").asInt());
+
+        JsonNode aliasJob = awaitBulkDelete(new BulkDeleteRequest(List.of("keep-1", "missing"), null, null, null));
+        assertEquals(2, aliasJob.get("processed").asLong());
+        assertEquals(1, aliasJob.get("deletedCount").asLong());
+
+        mockMvc.perform(post("/api/v1/urls/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BulkDeleteRequest(null, null, null, null))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/urls/bulk-delete/{jobId}", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listUrls_negotiatesCompactBinaryFormats() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            createUrl("https://example.com/campaign/landing-page-" + i, "binary-" + i);
+        }
+
+        byte[] json = mockMvc.perform(get("/api/v1/urls").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] cbor = mockMvc.perform(get("/api/v1/urls").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] smile = mockMvc.perform(get("/api/v1/urls").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode fromJson = objectMapper.readTree(json);
+        JsonNode fromCbor = new CBORMapper().readTree(cbor);
+        JsonNode fromSmile = new SmileMapper().readTree(smile);
+        assertEquals(fromJson.findValuesAsText("alias"), fromCbor.findValuesAsText("alias"));
+        assertEquals(fromJson.findValuesAsText("alias"), fromSmile.findValuesAsText("alias"));
+        assertTrue(fromCbor.findValues("shortUrl").isEmpty(), "shortUrl is derivable and omitted");
+        assertTrue(fromSmile.get(0).get("createdAt").isArray(), "dates are numeric, not ISO strings");
+        assertTrue(cbor.length < json.length, "CBOR should be smaller than JSON");
+        assertTrue(smile.length < json.length, "Smile should be smaller than JSON");
+    }
+
+    @Test
+    void importCsv_loadsRowsAndReportsConflicts() throws Exception {
+        createUrl("https://example.com/existing", "import-taken");
+
+        String csv = """
+                alias,original_url
+                import-1,https://example.com/a?x=1,2
+                import-2,example.org
+                import-taken,https://example.com/b
+                import-1,https://example.com/c
+                bad alias,https://example.com/d
+                import-3,http://invalid_url
+                """;
+
+        mockMvc.perform(post("/api/v1/urls/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(6))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.invalid").value(2))
+                .andExpect(jsonPath("$.conflicts").value(2))
+                .andExpect(jsonPath("$.errors", hasSize(4)));
+
+        mockMvc.perform(get("/import-1"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", "https://example.com/a?x=1,2"));
+
+        mockMvc.perform(get("/import-2"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", "https://example.org"));
+
+        assertEquals(3, repository.count());
+    }
+
+    @Test
+    void concurrentCustomAliasCreation_returnsConflictNotServerError() throws Exception {
+        int requests = 32;
+        String body = objectMapper.writeValueAsString(
+                new UrlShortenerRequest("https://example.com/race", "race-alias"));
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+            List<Callable<Integer>> calls = IntStream.range(0, requests)
+                    .<Callable<Integer>>mapToObj(i -> () -> {
+                        start.await();
+                        return mockMvc.perform(post("/api/v1/shorten")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                                .andReturn().getResponse().getStatus();
+                    })
+                    .toList();
+
+            results = calls.stream().map(executor::submit).toList();
+            start.countDown();
+        }
+
+        long created = 0;
+        long conflicts = 0;
+        for (Future<Integer> result : results) {
+            int code = result.get();
+            if (code == 201) {
+                created++;
+            } else if (code == 409) {
+                conflicts++;
+            }
+        }
+
+        assertEquals(1, created);
+        assertEquals(requests - 1, conflicts);
+    }
+
+    /**
+     * Compares the previous existsByAlias + save path with insertIfAbsent on H2.
+     * Percentiles are logged; run with {@code mvn test -Pbenchmark}.
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmarkCustomAliasCreation_insertIfAbsentComparedWithCheckThenSave() {
+        int iterations = 500;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<Long> checkThenSave = new ArrayList<>();
+        List<Long> insertIfAbsent = new ArrayList<>();
+
+        for (int i = 0; i < iterations; i++) {
+            String oldAlias = "latency-old-" + i;
+            String newAlias = "latency-new-" + i;
+
+            long start = System.nanoTime();
+            tx.executeWithoutResult(status -> {
+                // Previous shorten() path: existence check, then a separate insert
+                if (!repository.existsByAlias(oldAlias)) {
+                    repository.save(UrlShortenerEntity.builder()
+                            .alias(oldAlias)
+                            .originalUrl("https://example.com")
+                            .build());
+                }
+            });
+            checkThenSave.add(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            tx.executeWithoutResult(status -> repository.insertIfAbsent(newAlias, "https://example.com"));
+            insertIfAbsent.add(System.nanoTime() - start);
+        }
+
+        logLatency("existsByAlias + save", checkThenSave);
+        logLatency("insertIfAbsent", insertIfAbsent);
+
+        assertEquals(2L * iterations, repository.count());
+        assertTrue(percentileMillis(sorted(insertIfAbsent), 0.50) < percentileMillis(sorted(checkThenSave), 0.50),
+                "insertIfAbsent should have a lower median latency than check-then-save");
+    }
+
+    private static void logLatency(String label, List<Long> nanos) {
+        List<Long> sorted = sorted(nanos);
+        log.info("{}: n={} p50={} ms p95={} ms max={} ms", label, sorted.size(),
+                String.format("%.3f", percentileMillis(sorted, 0.50)),
+                String.format("%.3f", percentileMillis(sorted, 0.95)),
+                String.format("%.3f", percentileMillis(sorted, 1.0)));
+    }
+
+    private static List<Long> sorted(List<Long> nanos) {
+        return nanos.stream().sorted().toList();
+    }
+
+    private static double percentileMillis(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private JsonNode awaitBulkDelete(BulkDeleteRequest request) throws Exception {
+        String location = mockMvc.perform(post("/api/v1/urls/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").isNotEmpty())
+                .andReturn().getResponse().getHeader("Location");
+
+        for (int attempt = 0; attempt < 100; attempt++) {
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if (!"RUNNING".equals(job.get("status").asText())) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Bulk delete job did not finish: " + location);
+    }
+
+    private void createUrl(String originalUrl, String alias) throws Exception {
+        mockMvc.perform(post("/api/v1/shorten")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UrlShortenerRequest(originalUrl, alias))))
+                .andExpect(status().isCreated());
+    }
 }
 
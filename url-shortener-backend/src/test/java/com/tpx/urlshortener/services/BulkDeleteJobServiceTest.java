@@ -0,0 +1,122 @@
+package com.tpx.urlshortener.services;
+
+import com.tpx.urlshortener.dtos.BulkDeleteJobResponse;
+import com.tpx.urlshortener.dtos.BulkDeleteJobStatus;
+import com.tpx.urlshortener.dtos.BulkDeleteProgress;
+import com.tpx.urlshortener.dtos.BulkDeleteRequest;
+import com.tpx.urlshortener.exceptions.BulkDeleteJobNotFoundException;
+import com.tpx.urlshortener.exceptions.InvalidDeleteCriteriaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkDeleteJobServiceTest {
+
+    private static final BulkDeleteRequest REQUEST = new BulkDeleteRequest(null, "camp-", null, null);
+
+    @Mock
+    private UrlShortenerService urlShortenerService;
+
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private BulkDeleteJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new BulkDeleteJobService(urlShortenerService, queued::add);
+    }
+
+    @Test
+    @DisplayName("Should report per-chunk progress while the job runs")
+    void shouldReportProgressPerChunk() {
+        List<BulkDeleteJobResponse> seen = new ArrayList<>();
+        BulkDeleteJobResponse submitted = jobService.submit(REQUEST);
+
+        when(urlShortenerService.bulkDelete(eq(REQUEST), any())).thenAnswer(invocation -> {
+            Consumer<BulkDeleteProgress> onChunk = invocation.getArgument(1);
+            onChunk.accept(new BulkDeleteProgress(2, 2, 1));
+            seen.add(jobService.getJob(submitted.jobId()));
+            onChunk.accept(new BulkDeleteProgress(3, 3, 2));
+            return new BulkDeleteProgress(3, 3, 2);
+        });
+
+        assertEquals(BulkDeleteJobStatus.RUNNING, jobService.getJob(submitted.jobId()).status());
+        queued.forEach(Runnable::run);
+
+        assertEquals(BulkDeleteJobStatus.RUNNING, seen.get(0).status());
+        assertEquals(2, seen.get(0).processed());
+        assertEquals(1, seen.get(0).chunks());
+
+        BulkDeleteJobResponse done = jobService.getJob(submitted.jobId());
+        assertEquals(BulkDeleteJobStatus.COMPLETED, done.status());
+        assertEquals(3, done.deletedCount());
+        assertEquals(2, done.chunks());
+        assertNotNull(done.finishedAt());
+    }
+
+    @Test
+    @DisplayName("Should mark the job failed and keep progress made so far")
+    void shouldMarkJobFailed() {
+        BulkDeleteJobResponse submitted = jobService.submit(REQUEST);
+
+        when(urlShortenerService.bulkDelete(eq(REQUEST), any())).thenAnswer(invocation -> {
+            Consumer<BulkDeleteProgress> onChunk = invocation.getArgument(1);
+            onChunk.accept(new BulkDeleteProgress(2, 2, 1));
+            throw new IllegalStateException("connection lost");
+        });
+        queued.forEach(Runnable::run);
+
+        BulkDeleteJobResponse failed = jobService.getJob(submitted.jobId());
+        assertEquals(BulkDeleteJobStatus.FAILED, failed.status());
+        assertEquals(2, failed.deletedCount());
+        assertEquals("connection lost", failed.error());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid criteria before queueing a job")
+    void shouldRejectInvalidCriteriaSynchronously() {
+        BulkDeleteRequest invalid = new BulkDeleteRequest(null, null, null, null);
+        doThrow(new InvalidDeleteCriteriaException("invalid")).when(urlShortenerService).validateBulkDelete(invalid);
+
+        assertThrows(InvalidDeleteCriteriaException.class, () -> jobService.submit(invalid));
+
+        assertEquals(List.of(), queued);
+        verify(urlShortenerService, never()).bulkDelete(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw when job id is unknown")
+    void shouldThrowWhenJobUnknown() {
+        assertThrows(BulkDeleteJobNotFoundException.class, () -> jobService.getJob("missing"));
+    }
+
+    @Test
+    @DisplayName("Should return a running job with no progress on submit")
+    void shouldReturnRunningJobOnSubmit() {
+        BulkDeleteJobResponse submitted = jobService.submit(REQUEST);
+
+        assertEquals(BulkDeleteJobStatus.RUNNING, submitted.status());
+        assertEquals(0, submitted.processed());
+        assertNull(submitted.finishedAt());
+        assertEquals(1, queued.size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.tpx.urlshortener.services;
+
+import com.tpx.urlshortener.dtos.HotAliasResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotAliasTrackerTest {
+
+    private static final long WINDOW_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+    private HotAliasTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new HotAliasTracker(Duration.ofSeconds(10), 3, 1024, 4, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should rank aliases by hits")
+    void shouldRankAliasesByHits() {
+        record("a", 50);
+        record("b", 30);
+        record("c", 10);
+        record("d", 1);
+
+        List<HotAliasResponse> top = tracker.top(10);
+
+        assertEquals(List.of("a", "b", "c"), top.stream().map(HotAliasResponse::alias).toList());
+        assertEquals(50, top.get(0).estimatedHits());
+        assertEquals(5.0, top.get(0).estimatedRatePerSecond());
+    }
+
+    @Test
+    @DisplayName("Should keep only top-K candidates when new hot alias arrives")
+    void shouldAdmitNewHotAlias() {
+        record("a", 5);
+        record("b", 5);
+        record("c", 5);
+        record("d", 20);
+
+        List<HotAliasResponse> top = tracker.top(2);
+
+        assertEquals(2, top.size());
+        assertEquals("d", top.get(0).alias());
+    }
+
+    @Test
+    @DisplayName("Should decay previous window hits")
+    void shouldDecayPreviousWindow() {
+        record("a", 100);
+
+        clock.set(WINDOW_NANOS + WINDOW_NANOS / 2);
+        List<HotAliasResponse> halfway = tracker.top(10);
+
+        assertEquals(50, halfway.get(0).estimatedHits());
+
+        clock.set(3 * WINDOW_NANOS);
+        assertTrue(tracker.top(10).isEmpty());
+    }
+
+    private void record(String alias, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(alias);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.tpx.urlshortener.services;
+
+import com.tpx.urlshortener.dtos.UrlImportBatchResult;
+import com.tpx.urlshortener.dtos.UrlImportError;
+import com.tpx.urlshortener.dtos.UrlImportResponse;
+import com.tpx.urlshortener.dtos.UrlImportRow;
+import com.tpx.urlshortener.repositories.UrlImportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UrlImportServiceTest {
+
+    @Mock
+    private UrlImportRepository importRepository;
+
+    @InjectMocks
+    private UrlImportService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("Should validate rows and load them in batches")
+    void shouldImportValidRowsInBatches() {
+        List<UrlImportRow> firstBatch = List.of(
+                new UrlImportRow(2, "one", "https://example.com"),
+                new UrlImportRow(3, "two", "https://example.org/path"));
+        List<UrlImportRow> secondBatch = List.of(
+                new UrlImportRow(4, "three", "https://example.net"));
+
+        when(importRepository.importBatch(eq(firstBatch), anyInt()))
+                .thenReturn(new UrlImportBatchResult(2, 0, List.of()));
+        when(importRepository.importBatch(eq(secondBatch), anyInt()))
+                .thenReturn(new UrlImportBatchResult(0, 1,
+                        List.of(new UrlImportError(4, "three", "Alias already exists"))));
+
+        UrlImportResponse response = service.importCsv(csv("""
+                alias,original_url
+                one,example.com
+                two,https://example.org/path
+                three,https://example.net
+                """));
+
+        assertEquals(3, response.totalRows());
+        assertEquals(2, response.imported());
+        assertEquals(0, response.invalid());
+        assertEquals(1, response.conflicts());
+        assertEquals(List.of(new UrlImportError(4, "three", "Alias already exists")), response.errors());
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows without loading them")
+    void shouldReportInvalidRows() {
+        UrlImportResponse response = service.importCsv(csv("""
+                no-comma
+                bad alias!,https://example.com
+                ok,http://invalid_url
+                """));
+
+        assertEquals(3, response.totalRows());
+        assertEquals(0, response.imported());
+        assertEquals(3, response.invalid());
+        assertEquals(List.of(
+                new UrlImportError(1, null, "Expected alias,original_url"),
+                new UrlImportError(2, "bad alias!", "Invalid alias"),
+                new UrlImportError(3, "ok", "Invalid URL format")
+        ), response.errors());
+        verify(importRepository, never()).importBatch(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should import quoted fields and skip a header preceded by a BOM")
+    void shouldImportQuotedFieldsWithBom() {
+        List<UrlImportRow> batch = List.of(
+                new UrlImportRow(2, "abc", "https://x.com/?a=1,2"),
+                new UrlImportRow(3, "q", "https://example.com/say?x=%22hi%22"));
+
+        when(importRepository.importBatch(eq(batch), anyInt()))
+                .thenReturn(new UrlImportBatchResult(2, 0, List.of()));
+
+        UrlImportResponse response = service.importCsv(csv(
+                "\uFEFF\"alias\",\"original_url\"\r\n"
+                        + "\"abc\",\"https://x.com/?a=1,2\"\r\n"
+                        + "\"q\",\"https://example.com/say?x=%22hi%22\"\r\n"));
+
+        assertEquals(2, response.totalRows());
+        assertEquals(2, response.imported());
+        assertEquals(0, response.invalid());
+        assertEquals(List.of(), response.errors());
+    }
+
+    @Test
+    @DisplayName("Should report malformed quoting as an invalid row")
+    void shouldReportMalformedQuoting() {
+        UrlImportResponse response = service.importCsv(csv("abc,\"https://x.com\"junk\n"));
+
+        assertEquals(1, response.invalid());
+        assertEquals(List.of(new UrlImportError(1, null, "Malformed CSV quoting")), response.errors());
+        verify(importRepository, never()).importBatch(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive import batch size")
+    void shouldRejectInvalidBatchSize() {
+        ReflectionTestUtils.setField(service, "batchSize", 0);
+
+        assertThrows(IllegalStateException.class, () -> service.validateConfiguration());
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
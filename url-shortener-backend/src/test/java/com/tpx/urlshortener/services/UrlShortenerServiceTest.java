@@ -1,9 +1,16 @@
 package com.tpx.urlshortener.services;
 
+import com.tpx.urlshortener.dtos.BulkDeleteRequest;
+import com.tpx.urlshortener.dtos.BulkDeleteProgress;
+import com.tpx.urlshortener.dtos.UrlSearchCursor;
+import com.tpx.urlshortener.dtos.UrlSearchRequest;
+import com.tpx.urlshortener.dtos.UrlSearchResponse;
 import com.tpx.urlshortener.dtos.UrlShortenerRequest;
 import com.tpx.urlshortener.dtos.UrlShortenerResponse;
 import com.tpx.urlshortener.entities.UrlShortenerEntity;
 import com.tpx.urlshortener.exceptions.AliasAlreadyExistsException;
+import com.tpx.urlshortener.exceptions.InvalidDeleteCriteriaException;
+import com.tpx.urlshortener.exceptions.InvalidSearchCursorException;
 import com.tpx.urlshortener.exceptions.UrlNotFoundException;
 import com.tpx.urlshortener.repositories.UrlShortenerRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,16 +23,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +55,7 @@ class UrlShortenerServiceTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(service, "baseUrl", "http://localhost:8080");
+        ReflectionTestUtils.setField(service, "deleteChunkSize", 2);
     }
 
     @Test
@@ -49,8 +64,6 @@ class UrlShortenerServiceTest {
         UrlShortenerRequest request =
                 new UrlShortenerRequest("https://google.com", null);
 
-        when(repository.existsByAlias(anyString())).thenReturn(false);
-
         UrlShortenerEntity savedEntity = UrlShortenerEntity.builder()
                 .id(1L)
                 .alias("abc123")
@@ -58,7 +71,8 @@ class UrlShortenerServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(repository.save(any())).thenReturn(savedEntity);
+        when(repository.insertIfAbsent(anyString(), eq("https://google.com")))
+                .thenReturn(Optional.of(savedEntity));
 
         UrlShortenerResponse response = service.shorten(request);
 
@@ -67,7 +81,30 @@ class UrlShortenerServiceTest {
         assertEquals("https://google.com", response.originalUrl());
         assertEquals("http://localhost:8080/abc123", response.shortUrl());
 
-        verify(repository).save(any(UrlShortenerEntity.class));
+        verify(repository, never()).existsByAlias(anyString());
+    }
+
+    @Test
+    @DisplayName("Should retry generated alias on collision")
+    void shouldRetryGeneratedAliasOnCollision() {
+        UrlShortenerRequest request =
+                new UrlShortenerRequest("https://google.com", null);
+
+        UrlShortenerEntity savedEntity = UrlShortenerEntity.builder()
+                .id(1L)
+                .alias("abc123")
+                .originalUrl("https://google.com")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(repository.insertIfAbsent(anyString(), eq("https://google.com")))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(savedEntity));
+
+        UrlShortenerResponse response = service.shorten(request);
+
+        assertEquals("abc123", response.alias());
+        verify(repository, times(2)).insertIfAbsent(anyString(), eq("https://google.com"));
     }
 
     @Test
@@ -76,8 +113,6 @@ class UrlShortenerServiceTest {
         UrlShortenerRequest request =
                 new UrlShortenerRequest("https://example.com", "custom123");
 
-        when(repository.existsByAlias("custom123")).thenReturn(false);
-
         UrlShortenerEntity savedEntity = UrlShortenerEntity.builder()
                 .id(2L)
                 .alias("custom123")
@@ -85,12 +120,14 @@ class UrlShortenerServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(repository.save(any())).thenReturn(savedEntity);
+        when(repository.insertIfAbsent("custom123", "https://example.com"))
+                .thenReturn(Optional.of(savedEntity));
 
         UrlShortenerResponse response = service.shorten(request);
 
         assertEquals("custom123", response.alias());
         assertEquals("http://localhost:8080/custom123", response.shortUrl());
+        verify(repository, never()).existsByAlias(anyString());
     }
 
     @Test
@@ -99,7 +136,8 @@ class UrlShortenerServiceTest {
         UrlShortenerRequest request =
                 new UrlShortenerRequest("https://example.com", "existing-alias");
 
-        when(repository.existsByAlias("existing-alias")).thenReturn(true);
+        when(repository.insertIfAbsent("existing-alias", "https://example.com"))
+                .thenReturn(Optional.empty());
 
         AliasAlreadyExistsException exception = assertThrows(
                 AliasAlreadyExistsException.class,
@@ -136,6 +174,68 @@ class UrlShortenerServiceTest {
         assertEquals("alias2", responses.get(1).alias());
     }
 
+    @Test
+    @DisplayName("Should return a page of search results with a cursor to the next page")
+    void shouldSearchUrls() {
+        UrlSearchRequest criteria = new UrlSearchRequest("camp-", null, null, null, null);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 19, 3, 1, 31, 694346000);
+
+        UrlShortenerEntity first = UrlShortenerEntity.builder()
+                .id(2L)
+                .alias("camp-2")
+                .originalUrl("https://example.com")
+                .createdAt(createdAt)
+                .build();
+
+        UrlShortenerEntity second = UrlShortenerEntity.builder()
+                .id(1L)
+                .alias("camp-1")
+                .originalUrl("https://example.com")
+                .createdAt(createdAt.minusSeconds(1))
+                .build();
+
+        when(repository.search(criteria, null, 2)).thenReturn(List.of(first, second));
+
+        UrlSearchResponse response = service.search(criteria, null, 1);
+
+        assertEquals(1, response.content().size());
+        assertEquals("http://localhost:8080/camp-2", response.content().get(0).shortUrl());
+        assertEquals(1, response.size());
+        assertNotNull(response.nextCursor());
+
+        when(repository.search(criteria, new UrlSearchCursor(createdAt, 2L), 2)).thenReturn(List.of(second));
+
+        UrlSearchResponse next = service.search(criteria, response.nextCursor(), 1);
+
+        assertEquals("camp-1", next.content().get(0).alias());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should clamp search page size")
+    void shouldClampSearchPageSize() {
+        UrlSearchRequest criteria = new UrlSearchRequest(null, null, null, null, null);
+
+        when(repository.search(criteria, null, 101)).thenReturn(List.of());
+
+        UrlSearchResponse response = service.search(criteria, "", 5000);
+
+        assertEquals(100, response.size());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed search cursor")
+    void shouldRejectMalformedCursor() {
+        UrlSearchRequest criteria = new UrlSearchRequest(null, null, null, null, null);
+
+        assertThrows(
+                InvalidSearchCursorException.class,
+                () -> service.search(criteria, "not-a-cursor", 10)
+        );
+        verify(repository, never()).search(any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("Should return original URL by alias")
     void shouldReturnOriginalUrlByAlias() {
@@ -187,4 +287,79 @@ class UrlShortenerServiceTest {
         assertTrue(exception.getMessage().contains("URL not found"));
         verify(repository, never()).deleteByAlias(any());
     }
+
+    @Test
+    @DisplayName("Should bulk delete alias list in chunks")
+    void shouldBulkDeleteAliasesInChunks() {
+        when(repository.deleteAllByAliasIn(List.of("a1", "a2"))).thenReturn(2);
+        when(repository.deleteAllByAliasIn(List.of("a3"))).thenReturn(1);
+
+        List<BulkDeleteProgress> progress = new ArrayList<>();
+        BulkDeleteProgress response = service.bulkDelete(
+                new BulkDeleteRequest(List.of("a1", "a2", "a2", "a3"), null, null, null), progress::add);
+
+        assertEquals(3, response.deletedCount());
+        assertEquals(2, response.chunks());
+        assertEquals(List.of(new BulkDeleteProgress(2, 2, 1), new BulkDeleteProgress(3, 3, 2)), progress);
+    }
+
+    @Test
+    @DisplayName("Should bulk delete prefix matches in chunks")
+    void shouldBulkDeletePrefixMatchesInChunks() {
+        UrlSearchRequest criteria = new UrlSearchRequest("camp-", null, null, null, null);
+
+        when(repository.findIdsAfter(criteria, 0L, 2)).thenReturn(List.of(1L, 4L));
+        when(repository.findIdsAfter(criteria, 4L, 2)).thenReturn(List.of(7L));
+        when(repository.findIdsAfter(criteria, 7L, 2)).thenReturn(List.of());
+        when(repository.deleteAllByIdIn(List.of(1L, 4L))).thenReturn(2);
+        when(repository.deleteAllByIdIn(List.of(7L))).thenReturn(1);
+
+        List<BulkDeleteProgress> progress = new ArrayList<>();
+        BulkDeleteProgress response = service.bulkDelete(
+                new BulkDeleteRequest(null, "camp-", null, null), progress::add);
+
+        assertEquals(3, response.deletedCount());
+        assertEquals(2, response.chunks());
+        assertEquals(List.of(new BulkDeleteProgress(2, 2, 1), new BulkDeleteProgress(3, 3, 2)), progress);
+    }
+
+    @Test
+    @DisplayName("Should reject bulk delete without exactly one kind of criteria")
+    void shouldRejectInvalidBulkDeleteCriteria() {
+        assertThrows(
+                InvalidDeleteCriteriaException.class,
+                () -> service.bulkDelete(new BulkDeleteRequest(null, null, null, null), progress -> { })
+        );
+        assertThrows(
+                InvalidDeleteCriteriaException.class,
+                () -> service.validateBulkDelete(new BulkDeleteRequest(List.of("a1"), "camp-", null, null))
+        );
+
+        verify(repository, never()).findIdsAfter(any(), anyLong(), anyInt());
+        verify(repository, never()).deleteAllByAliasIn(any());
+    }
+
+    @Test
+    @DisplayName("Should reject bulk delete with null or blank aliases")
+    void shouldRejectNullOrBlankAliases() {
+        assertThrows(
+                InvalidDeleteCriteriaException.class,
+                () -> service.bulkDelete(
+                        new BulkDeleteRequest(Arrays.asList("a1", null), null, null, null), progress -> { })
+        );
+        assertThrows(
+                InvalidDeleteCriteriaException.class,
+                () -> service.validateBulkDelete(new BulkDeleteRequest(List.of("a1", " "), null, null, null))
+        );
+
+        verify(repository, never()).deleteAllByAliasIn(any());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive bulk delete chunk size")
+    void shouldRejectInvalidChunkSize() {
+        ReflectionTestUtils.setField(service, "deleteChunkSize", 0);
+
+        assertThrows(IllegalStateException.class, () -> service.validateConfiguration());
+    }
 }
@@ -0,0 +1,64 @@
+package com.tpx.urlshortener.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("Should count a single key exactly")
+    void shouldCountSingleKeyExactly() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+
+        for (int i = 0; i < 5; i++) {
+            sketch.add("hot");
+        }
+
+        assertEquals(5, sketch.estimate("hot"));
+        assertEquals(0, sketch.estimate("cold"));
+    }
+
+    @Test
+    @DisplayName("Should never undercount under many keys")
+    void shouldNeverUndercount() {
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add("alias-" + (i % 1000));
+        }
+        for (int i = 0; i < 500; i++) {
+            sketch.add("hot");
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(sketch.estimate("alias-" + i) >= 10);
+        }
+        assertTrue(sketch.estimate("hot") >= 500);
+    }
+
+    @Test
+    @DisplayName("Should keep keys with colliding hashCode apart")
+    void shouldSeparateCollidingHashCodes() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        for (int i = 0; i < 7; i++) {
+            sketch.add("Aa");
+        }
+        sketch.add("BB");
+
+        assertEquals(7, sketch.estimate("Aa"));
+        assertEquals(1, sketch.estimate("BB"));
+    }
+
+    @Test
+    @DisplayName("Should reject width that is not a power of two")
+    void shouldRejectInvalidWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(1000, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(1024, 0));
+    }
+}
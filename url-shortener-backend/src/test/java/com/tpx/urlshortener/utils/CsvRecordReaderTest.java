@@ -0,0 +1,84 @@
+package com.tpx.urlshortener.utils;
+
+import com.tpx.urlshortener.utils.CsvRecordReader.CsvRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Should read unquoted fields with LF and CRLF endings")
+    void shouldReadUnquotedFields() throws IOException {
+        List<CsvRecord> records = readAll("a,https://one.com\r\nb,https://two.com\n");
+
+        assertEquals(2, records.size());
+        assertEquals(List.of("a", "https://one.com"), records.get(0).fields());
+        assertEquals(List.of("b", "https://two.com"), records.get(1).fields());
+        assertEquals(2, records.get(1).lineNumber());
+    }
+
+    @Test
+    @DisplayName("Should unquote fields and keep commas and escaped quotes")
+    void shouldReadQuotedFields() throws IOException {
+        List<CsvRecord> records = readAll("\"abc\",\"https://x.com/?a=1,2\"\n\"q\",\"say \"\"hi\"\"\"\n");
+
+        assertEquals(List.of("abc", "https://x.com/?a=1,2"), records.get(0).fields());
+        assertEquals(List.of("q", "say \"hi\""), records.get(1).fields());
+        assertFalse(records.get(0).malformed());
+    }
+
+    @Test
+    @DisplayName("Should keep line breaks inside quoted fields and track line numbers")
+    void shouldReadQuotedLineBreaks() throws IOException {
+        List<CsvRecord> records = readAll("a,\"multi\nline\"\nb,c\n");
+
+        assertEquals(List.of("a", "multi\nline"), records.get(0).fields());
+        assertEquals(3, records.get(1).lineNumber());
+    }
+
+    @Test
+    @DisplayName("Should strip a leading UTF-8 BOM")
+    void shouldStripBom() throws IOException {
+        List<CsvRecord> records = readAll("\uFEFFalias,original_url\n");
+
+        assertEquals(List.of("alias", "original_url"), records.get(0).fields());
+    }
+
+    @Test
+    @DisplayName("Should flag malformed quoting instead of failing")
+    void shouldFlagMalformedQuoting() throws IOException {
+        List<CsvRecord> records = readAll("a,\"x\"y\nb,c\nd,\"open");
+
+        assertTrue(records.get(0).malformed());
+        assertFalse(records.get(1).malformed());
+        assertTrue(records.get(2).malformed());
+    }
+
+    @Test
+    @DisplayName("Should report blank lines as blank records")
+    void shouldReportBlankLines() throws IOException {
+        List<CsvRecord> records = readAll("a,b\n\nc,d\n");
+
+        assertEquals(3, records.size());
+        assertTrue(records.get(1).isBlank());
+    }
+
+    private static List<CsvRecord> readAll(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<CsvRecord> records = new ArrayList<>();
+        CsvRecord record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -19,7 +19,15 @@ function App() {
     mode: 'onChange',
   })
 
-  const { data: urls = [], isLoading, error } = useUrls()
+  const {
+    data,
+    isLoading,
+    error,
+    fetchNextPage,
+    hasNextPage,
+    isFetchingNextPage,
+  } = useUrls()
+  const urls = data?.pages.flatMap(page => page.content) ?? []
   const shortenUrlMutation = useShortenUrl()
   const deleteAliasMutation = useDeleteUrl()
 
@@ -244,6 +252,18 @@ function App() {
                         </div>
                       ))}
                     </div>
+
+                    {hasNextPage && (
+                      <div className="text-center mt-3">
+                        <button
+                          className="btn btn-outline-secondary"
+                          onClick={() => fetchNextPage()}
+                          disabled={isFetchingNextPage}
+                        >
+                          {isFetchingNextPage ? 'Loading...' : 'Load more'}
+                        </button>
+                      </div>
+                    )}
                   </>
                 )}
               </div>
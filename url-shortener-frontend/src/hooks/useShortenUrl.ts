@@ -1,11 +1,20 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
-import { deleteAliasUrl, getAllShortenUrls, shortenUrl } from '../services/api'
+import {
+  useInfiniteQuery,
+  useMutation,
+  useQueryClient,
+} from '@tanstack/react-query'
+import { deleteAliasUrl, searchUrls, shortenUrl } from '../services/api'
 import type { UrlShortenRequest } from '../types/url'
 
+const PAGE_SIZE = 50
+
 export const useUrls = () => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: ['urls'],
-    queryFn: getAllShortenUrls,
+    queryFn: ({ pageParam }) =>
+      searchUrls({ cursor: pageParam, size: PAGE_SIZE }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: lastPage => lastPage.nextCursor ?? undefined,
   })
 }
 
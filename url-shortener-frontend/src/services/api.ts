@@ -2,7 +2,8 @@ import axios from 'axios'
 import type {
   UrlShortenRequest,
   UrlShortenResponse,
-  UrlEntry,
+  UrlSearchParams,
+  UrlSearchResponse,
 } from '../types/url'
 
 const api = axios.create({
@@ -12,8 +13,8 @@ const api = axios.create({
   },
 })
 
-export const getAllShortenUrls = () =>
-  api.get<UrlEntry[]>('/urls').then(res => res.data)
+export const searchUrls = (params: UrlSearchParams) =>
+  api.get<UrlSearchResponse>('/urls/search', { params }).then(res => res.data)
 
 export const shortenUrl = (request: UrlShortenRequest) =>
   api.post<UrlShortenResponse>('/shorten', request).then(res => res.data)
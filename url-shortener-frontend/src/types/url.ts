@@ -16,3 +16,19 @@ export interface UrlShortenResponse {
   shortUrl: string
   originalUrl: string
 }
+
+export interface UrlSearchParams {
+  aliasPrefix?: string
+  urlContains?: string
+  host?: string
+  createdFrom?: string
+  createdTo?: string
+  cursor?: string
+  size?: number
+}
+
+export interface UrlSearchResponse {
+  content: UrlEntry[]
+  size: number
+  nextCursor: string | null
+}